@@ -1,6 +1,8 @@
 package com.juniormbe.uniql;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.BiFunction;
 
 /**
  * The SortRequest class
@@ -40,6 +42,35 @@ public class SortRequest {
         return new SortRequest(direction, fieldNames);
     }
 
+    /**
+     * Build comparator ordering rows by sort field names, in sort direction.
+     * Field values must be mutually Comparable, null values come first in ascending order.
+     * @param fieldReader the function reading a row field value by field name
+     * @param <T> the row type
+     * @return the rows comparator
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Comparator<T> comparator(BiFunction<? super T, String, ?> fieldReader) {
+        final String[] names = this.fieldNames;
+        Comparator<T> comparator = (left, right) -> {
+            for (String name : names) {
+                Comparable<Object> leftValue = (Comparable<Object>) fieldReader.apply(left, name);
+                Object rightValue = fieldReader.apply(right, name);
+                int result;
+                if(leftValue == null || rightValue == null) {
+                    result = leftValue == null ? (rightValue == null ? 0 : -1) : 1;
+                } else {
+                    result = leftValue.compareTo(rightValue);
+                }
+                if(result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        };
+        return direction == Direction.DESC ? comparator.reversed() : comparator;
+    }
+
     @Override
     public String toString() {
         return "SortRequest{" +
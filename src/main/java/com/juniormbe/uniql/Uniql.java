@@ -1,6 +1,7 @@
 package com.juniormbe.uniql;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -135,6 +136,14 @@ public class Uniql {
         return UniqlParser.parse(model);
     }
 
+    public static UniqlBatch parseAll(Collection<String> models) {
+        return UniqlParser.parseAll(models);
+    }
+
+    public static UniqlValidation validate(String model) {
+        return UniqlParser.validate(model);
+    }
+
     public String toModel() {
         return UniqlParser.toModel(this);
     }
@@ -0,0 +1,65 @@
+package com.juniormbe.uniql;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The UniqlBatch class
+ *
+ * Result of a batch parsing, parsed Uniql objects are listed in models order
+ * with null in place of models which failed, whose errors are mapped by index.
+ *
+ * @author Junior Mbe
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class UniqlBatch {
+    private final List<Uniql> results;
+    private final Map<Integer, UniqlParseException> errors;
+
+    UniqlBatch(Uniql[] results, UniqlParseException[] errors) {
+        Map<Integer, UniqlParseException> errorMap = new LinkedHashMap<>();
+        for (int i = 0; i < errors.length; i++) {
+            if(errors[i] != null) {
+                errorMap.put(i, errors[i]);
+            }
+        }
+        this.results = Collections.unmodifiableList(Arrays.asList(results));
+        this.errors = Collections.unmodifiableMap(errorMap);
+    }
+
+    public List<Uniql> getResults() {
+        return results;
+    }
+
+    public Uniql getResult(int index) {
+        return results.get(index);
+    }
+
+    public Map<Integer, UniqlParseException> getErrors() {
+        return errors;
+    }
+
+    public UniqlParseException getError(int index) {
+        return errors.get(index);
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    @Override
+    public String toString() {
+        return "UniqlBatch{" +
+          "size=" + results.size() +
+          ", errors=" + errors +
+          '}';
+    }
+}
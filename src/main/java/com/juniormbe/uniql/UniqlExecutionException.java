@@ -0,0 +1,18 @@
+package com.juniormbe.uniql;
+
+/**
+ * The UniqlExecutionException class
+ *
+ * @author Junior Mbe
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class UniqlExecutionException extends Exception {
+    public UniqlExecutionException(String message) {
+        super(message);
+    }
+
+    public UniqlExecutionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,46 @@
+package com.juniormbe.uniql;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The UniqlGatherResult class
+ *
+ * Rows of the requested page gathered from shards, with the failures of the shards
+ * which were left out by the failure policy, mapped by shard index.
+ *
+ * @param <T> the row type
+ * @author Junior Mbe
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class UniqlGatherResult<T> {
+    private final List<T> rows;
+    private final Map<Integer, Exception> failures;
+
+    UniqlGatherResult(List<T> rows, Map<Integer, Exception> failures) {
+        this.rows = Collections.unmodifiableList(rows);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    public List<T> getRows() {
+        return rows;
+    }
+
+    public Map<Integer, Exception> getFailures() {
+        return failures;
+    }
+
+    public boolean isPartial() {
+        return !failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "UniqlGatherResult{" +
+          "rows=" + rows +
+          ", failures=" + failures +
+          '}';
+    }
+}
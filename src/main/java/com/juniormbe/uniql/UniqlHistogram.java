@@ -0,0 +1,89 @@
+package com.juniormbe.uniql;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The UniqlHistogram class
+ *
+ * Lock-free histogram of non negative values using power of two buckets:
+ * bucket 0 holds 0, bucket i holds values in [2^(i-1), 2^i).
+ *
+ * @author Junior Mbe
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class UniqlHistogram {
+    private static final int BUCKET_COUNT = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    public UniqlHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    private static int bucketOf(long value) {
+        return value <= 0 ? 0 : Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(value));
+    }
+
+    public void record(long value) {
+        buckets[bucketOf(value)].increment();
+        count.increment();
+        sum.add(Math.max(0, value));
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public double getMean() {
+        long c = getCount();
+        return c == 0 ? 0 : (double) getSum() / c;
+    }
+
+    /**
+     * Approximate a percentile by the upper bound of the bucket reaching it
+     * @param percentile the percentile between 0 and 100
+     * @return the bucket upper bound, 0 when empty
+     */
+    public long getPercentile(double percentile) {
+        long c = getCount();
+        if(c == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(c * Math.min(100, Math.max(0, percentile)) / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i].sum();
+            if(seen >= rank && seen > 0) {
+                return i == 0 ? 0 : (i == BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << i) - 1);
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        sum.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "UniqlHistogram{" +
+          "count=" + getCount() +
+          ", mean=" + getMean() +
+          ", p50=" + getPercentile(50) +
+          ", p99=" + getPercentile(99) +
+          '}';
+    }
+}
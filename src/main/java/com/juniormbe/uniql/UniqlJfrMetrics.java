@@ -0,0 +1,169 @@
+package com.juniormbe.uniql;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The UniqlJfrMetrics class
+ *
+ * {@link UniqlMetrics} implementation emitting Java Flight Recorder events so Uniql
+ * parse and execution measures can be correlated with GC and allocation profiles.
+ * Events begin in the started hooks and end in the matching completion hooks on the same
+ * thread, so their duration covers the measured work in the recording timeline.
+ *
+ * @author Junior Mbe
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class UniqlJfrMetrics implements UniqlMetrics {
+
+    @Name("com.juniormbe.uniql.Parse")
+    @Label("Uniql Parse")
+    @Category("Uniql")
+    @Description("Uniql string model parsing")
+    static final class ParseEvent extends Event {
+        @Label("Parse Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long parseTime;
+
+        @Label("Model Length")
+        @DataAmount(DataAmount.BYTES)
+        int modelLength;
+
+        @Label("Node Count")
+        int nodeCount;
+
+        @Label("Depth")
+        int depth;
+
+        @Label("Failure Category")
+        String failureCategory;
+    }
+
+    @Name("com.juniormbe.uniql.ModelWrite")
+    @Label("Uniql Model Write")
+    @Category("Uniql")
+    @Description("Uniql object writing to string model")
+    static final class ModelWriteEvent extends Event {
+        @Label("Write Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long writeTime;
+
+        @Label("Model Length")
+        @DataAmount(DataAmount.BYTES)
+        int modelLength;
+    }
+
+    @Name("com.juniormbe.uniql.NodeExecution")
+    @Label("Uniql Node Execution")
+    @Category("Uniql")
+    @Description("Uniql node execution")
+    static final class NodeExecutionEvent extends Event {
+        @Label("Node Name")
+        String nodeName;
+
+        @Label("Execution Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long executionTime;
+
+        @Label("Failed")
+        boolean failed;
+    }
+
+    private final ThreadLocal<ParseEvent> parseEvents = new ThreadLocal<>();
+    private final ThreadLocal<ModelWriteEvent> modelWriteEvents = new ThreadLocal<>();
+    private final ThreadLocal<Deque<NodeExecutionEvent>> nodeExecutionEvents = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Take the event begun on current thread, or an event without duration when none was begun
+     */
+    private ParseEvent takeParseEvent() {
+        ParseEvent event = parseEvents.get();
+        parseEvents.set(null);
+        return event == null ? new ParseEvent() : event;
+    }
+
+    @Override
+    public void parseStarted() {
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        parseEvents.set(event);
+    }
+
+    @Override
+    public void parsed(long nanos, int modelLength, int nodeCount, int depth) {
+        ParseEvent event = takeParseEvent();
+        event.end();
+        if(event.shouldCommit()) {
+            event.parseTime = nanos;
+            event.modelLength = modelLength;
+            event.nodeCount = nodeCount;
+            event.depth = depth;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void parseFailed(long nanos, int modelLength, UniqlParseException.Category category) {
+        ParseEvent event = takeParseEvent();
+        event.end();
+        if(event.shouldCommit()) {
+            event.parseTime = nanos;
+            event.modelLength = modelLength;
+            event.failureCategory = category.name();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void modelWriteStarted() {
+        ModelWriteEvent event = new ModelWriteEvent();
+        event.begin();
+        modelWriteEvents.set(event);
+    }
+
+    @Override
+    public void modelWritten(long nanos, int modelLength) {
+        ModelWriteEvent event = modelWriteEvents.get();
+        modelWriteEvents.set(null);
+        if(event == null) {
+            event = new ModelWriteEvent();
+        }
+        event.end();
+        if(event.shouldCommit()) {
+            event.writeTime = nanos;
+            event.modelLength = modelLength;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void nodeExecutionStarted(Uniql node) {
+        NodeExecutionEvent event = new NodeExecutionEvent();
+        event.begin();
+        nodeExecutionEvents.get().push(event);
+    }
+
+    @Override
+    public void nodeExecuted(Uniql node, long nanos, boolean failed) {
+        NodeExecutionEvent event = nodeExecutionEvents.get().poll();
+        if(event == null) {
+            event = new NodeExecutionEvent();
+        }
+        event.end();
+        if(event.shouldCommit()) {
+            event.nodeName = node.getName();
+            event.executionTime = nanos;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.juniormbe.uniql;
+
+/**
+ * The UniqlMetrics interface
+ *
+ * Service provider interface receiving Uniql parse, model and execution measures.
+ * Every method defaults to a no-op so implementations only override what they record.
+ * Install an implementation with {@link UniqlParser#setMetrics(UniqlMetrics)}.
+ *
+ * @author Junior Mbe
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public interface UniqlMetrics {
+
+    /**
+     * Metrics which record nothing, installed by default
+     */
+    UniqlMetrics NOOP = new UniqlMetrics() {
+    };
+
+    /**
+     * Called on the parsing thread just before a string model is parsed,
+     * followed on the same thread by {@link #parsed} or {@link #parseFailed}
+     */
+    default void parseStarted() {
+    }
+
+    /**
+     * Called when a string model has been parsed
+     * @param nanos the parse duration in nanoseconds
+     * @param modelLength the length of the parsed string model
+     * @param nodeCount the number of Uniql nodes of the parsed tree, root included
+     * @param depth the depth of the parsed tree, 1 for a single node
+     */
+    default void parsed(long nanos, int modelLength, int nodeCount, int depth) {
+    }
+
+    /**
+     * Called when a string model parsing has failed
+     * @param nanos the duration spent before failure in nanoseconds
+     * @param modelLength the length of the rejected string model
+     * @param category the failure category
+     */
+    default void parseFailed(long nanos, int modelLength, UniqlParseException.Category category) {
+    }
+
+    /**
+     * Called on the writing thread just before a Uniql object is written,
+     * followed on the same thread by {@link #modelWritten}
+     */
+    default void modelWriteStarted() {
+    }
+
+    /**
+     * Called when a Uniql object has been written to its string model
+     * @param nanos the write duration in nanoseconds
+     * @param modelLength the length of the written string model
+     */
+    default void modelWritten(long nanos, int modelLength) {
+    }
+
+    /**
+     * Called by model caches when a model was found in cache
+     */
+    default void cacheHit() {
+    }
+
+    /**
+     * Called by model caches when a model was not found in cache
+     */
+    default void cacheMiss() {
+    }
+
+    /**
+     * Called by executors on the executing thread just before a Uniql node is executed,
+     * followed on the same thread by {@link #nodeExecuted}
+     * @param node the Uniql node to execute
+     */
+    default void nodeExecutionStarted(Uniql node) {
+    }
+
+    /**
+     * Called by executors when a Uniql node has been executed, successfully or not
+     * @param node the executed Uniql node
+     * @param nanos the execution duration in nanoseconds
+     * @param failed true when the execution has failed
+     */
+    default void nodeExecuted(Uniql node, long nanos, boolean failed) {
+    }
+
+    /**
+     * Combine several metrics into one forwarding every measure to each of them
+     * @param metrics the metrics to combine
+     * @return the combined metrics
+     */
+    static UniqlMetrics of(UniqlMetrics... metrics) {
+        final UniqlMetrics[] targets = metrics.clone();
+        return new UniqlMetrics() {
+            @Override
+            public void parseStarted() {
+                for (UniqlMetrics target : targets) {
+                    target.parseStarted();
+                }
+            }
+
+            @Override
+            public void parsed(long nanos, int modelLength, int nodeCount, int depth) {
+                for (UniqlMetrics target : targets) {
+                    target.parsed(nanos, modelLength, nodeCount, depth);
+                }
+            }
+
+            @Override
+            public void parseFailed(long nanos, int modelLength, UniqlParseException.Category category) {
+                for (UniqlMetrics target : targets) {
+                    target.parseFailed(nanos, modelLength, category);
+                }
+            }
+
+            @Override
+            public void modelWriteStarted() {
+                for (UniqlMetrics target : targets) {
+                    target.modelWriteStarted();
+                }
+            }
+
+            @Override
+            public void modelWritten(long nanos, int modelLength) {
+                for (UniqlMetrics target : targets) {
+                    target.modelWritten(nanos, modelLength);
+                }
+            }
+
+            @Override
+            public void cacheHit() {
+                for (UniqlMetrics target : targets) {
+                    target.cacheHit();
+                }
+            }
+
+            @Override
+            public void cacheMiss() {
+                for (UniqlMetrics target : targets) {
+                    target.cacheMiss();
+                }
+            }
+
+            @Override
+            public void nodeExecutionStarted(Uniql node) {
+                for (UniqlMetrics target : targets) {
+                    target.nodeExecutionStarted(node);
+                }
+            }
+
+            @Override
+            public void nodeExecuted(Uniql node, long nanos, boolean failed) {
+                for (UniqlMetrics target : targets) {
+                    target.nodeExecuted(node, nanos, failed);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.juniormbe.uniql;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The UniqlNameTable class
+ *
+ * Concurrent intern table shared by parsers so that every parsed model refers to a single
+ * instance of each field name and sort field name.
+ *
+ * @author Junior Mbe
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class UniqlNameTable {
+    private final ConcurrentMap<String, String> names = new ConcurrentHashMap<>();
+
+    /**
+     * Intern a name
+     * @param name the name
+     * @return the shared instance equal to name
+     */
+    public String intern(String name) {
+        if(name == null) {
+            return null;
+        }
+        String interned = names.putIfAbsent(name, name);
+        return interned == null ? name : interned;
+    }
+
+    /**
+     * Intern each name of a sort field names array, in place. The array itself stays owned
+     * by its SortRequest, which exposes it mutably, only the names are shared.
+     * @param fieldNames the sort field names
+     * @return fieldNames, holding interned names
+     */
+    public String[] intern(String[] fieldNames) {
+        if(fieldNames == null) {
+            return null;
+        }
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldNames[i] = intern(fieldNames[i]);
+        }
+        return fieldNames;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public void clear() {
+        names.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "UniqlNameTable{" +
+          "names=" + names.size() +
+          '}';
+    }
+}
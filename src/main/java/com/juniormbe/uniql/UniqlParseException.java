@@ -8,7 +8,85 @@ package com.juniormbe.uniql;
  * @since 28/06/2019
  */
 public class UniqlParseException extends Exception {
+
+    /**
+     * Uniql parse failure categories
+     */
+    public enum Category {
+        NULL_CONTENT,
+        EMPTY_CONTENT,
+        UNEXPECTED_CHARACTER,
+        TRAILING_CONTENT,
+        UNCLOSED_DEFINITION,
+        BAD_PAGE,
+        BAD_SORT,
+        OTHER
+    }
+
+    private final Category category;
+    private final int position;
+    private final String format;
+    private final Object[] arguments;
+    private volatile String message;
+
     public UniqlParseException(String message) {
+        this(Category.OTHER, message);
+    }
+
+    public UniqlParseException(Category category, String message) {
         super(message);
+        this.category = category;
+        this.position = -1;
+        this.format = null;
+        this.arguments = null;
+        this.message = message;
+    }
+
+    public UniqlParseException(Category category, String message, Throwable cause) {
+        super(message, cause);
+        this.category = category;
+        this.position = -1;
+        this.format = null;
+        this.arguments = null;
+        this.message = message;
+    }
+
+    private UniqlParseException(Category category, int position, String format, Object[] arguments) {
+        super(null, null, false, false);
+        this.category = category;
+        this.position = position;
+        this.format = format;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Build an exception without stack trace whose message is only formatted when read
+     * @param category the failure category
+     * @param position the failure position in the model
+     * @param format the {@link String#format(String, Object...)} message format
+     * @param arguments the message arguments
+     * @return the stackless exception
+     */
+    public static UniqlParseException stackless(Category category, int position, String format, Object... arguments) {
+        return new UniqlParseException(category, position, format, arguments);
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    /**
+     * @return the failure position in the model as given, blank chars included, -1 when unknown
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    @Override
+    public String getMessage() {
+        if(message == null && format != null) {
+            message = String.format(format, arguments);
+        }
+        return message;
     }
 }
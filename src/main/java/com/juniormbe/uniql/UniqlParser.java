@@ -1,8 +1,15 @@
 package com.juniormbe.uniql;
 
+import com.juniormbe.uniql.UniqlParseException.Category;
+
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * The UniqlParser class
@@ -45,6 +52,11 @@ public class UniqlParser {
     private static final String identifierChars = "_abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ1234567890";
     private static final String separatorChars = "{}|,";
 
+    private static final Pattern PAGE_PATTERN = Pattern.compile("^(\\d+)-(\\d+)$");
+    private static final Pattern SORT_PATTERN = Pattern.compile("^([+-]?)((?:\\w+)(?:,\\s*\\w+)*)$");
+
+    private static volatile UniqlMetrics metrics = UniqlMetrics.NOOP;
+
 
     /**
      * Build Uniql string model from Uniql object
@@ -135,22 +147,99 @@ public class UniqlParser {
         return modelBuilder.toString();
     }
 
+    /**
+     * Remove blank chars from model, nested models already stripped are returned as is
+     * @param model the string model
+     * @return the model without blank chars
+     */
+    private static String stripBlanks(String model) {
+        int i = 0;
+        while (i < model.length() && !isBlank(model.charAt(i))) {
+            i++;
+        }
+        if(i == model.length()) {
+            return model;
+        }
+        StringBuilder stripped = new StringBuilder(model.length()).append(model, 0, i);
+        for (; i < model.length(); i++) {
+            char c = model.charAt(i);
+            if(!isBlank(c)) {
+                stripped.append(c);
+            }
+        }
+        return stripped.toString();
+    }
+
+    /**
+     * Blank chars are ignored anywhere in a model
+     * @param c the char
+     * @return true when c is blank
+     */
+    static boolean isBlank(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r' || c == '\u0000';
+    }
+
+    /**
+     * Build parse failure located in the model as given, blank chars included
+     * @param source the full model base ancestor, as given with its blank chars
+     * @param category the failure category
+     * @param position the failure position in the model without blank chars
+     * @param format the message format, ending with the position
+     * @param arguments the message arguments, position excluded
+     * @return the stackless exception
+     */
+    private static UniqlParseException error(String source, Category category, int position, String format, Object... arguments) {
+        int rawPosition = 0;
+        int stripped = 0;
+        while (rawPosition < source.length() && (stripped < position || isBlank(source.charAt(rawPosition)))) {
+            if(!isBlank(source.charAt(rawPosition))) {
+                stripped++;
+            }
+            rawPosition++;
+        }
+        Object[] messageArguments = Arrays.copyOf(arguments, arguments.length + 1);
+        messageArguments[arguments.length] = rawPosition;
+        return UniqlParseException.stackless(category, rawPosition, format, messageArguments);
+    }
+
+    private static String intern(UniqlNameTable names, String name) {
+        return names == null ? name : names.intern(name);
+    }
+
+    /**
+     * Build PageRequest from its string definition
+     * @param pageString the page definition, number and size separated by <-> char
+     * @return the PageRequest or null when definition is bad
+     */
+    private static PageRequest toPage(String pageString) {
+        Matcher matcher = PAGE_PATTERN.matcher(pageString);
+        if(!matcher.matches()) {
+            return null;
+        }
+        try {
+            return PageRequest.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /**
      * This method parse Uniql string model to Uniql object
      * @param model the Uniql string model
-     * @param fullLength the length of the full model base ancestor
+     * @param source the full model base ancestor, as given with its blank chars
      * @param startPosition the start position of the current string model in the base ancestor model
+     * @param names the table interning parsed names, null to keep them as parsed
      * @return parsed Uniql object
      * @throws UniqlParseException when parse fail
      */
-    private static Uniql parse(String model, int fullLength, int startPosition) throws UniqlParseException {
+    private static Uniql parse(String model, String source, int startPosition, UniqlNameTable names) throws UniqlParseException {
 
         if(model == null) {
-            throw new UniqlParseException("Null content at column " + startPosition);
+            throw UniqlParseException.stackless(Category.NULL_CONTENT, startPosition, "Null content at column %s", startPosition);
         }
-        model = model.replaceAll("[\\s\\u0000]", "");
+        model = stripBlanks(model);
         if(model.length() == 0) {
-            throw new UniqlParseException("Empty content arround column " + startPosition);
+            throw UniqlParseException.stackless(Category.EMPTY_CONTENT, startPosition, "Empty content arround column %s", startPosition);
         }
 
         StringBuilder stringBuilder = new StringBuilder();
@@ -164,7 +253,7 @@ public class UniqlParser {
             char c = model.charAt(i);
             fullPosition = startPosition + i;
             if(hasFinish) {
-                throw new UniqlParseException("Unexpected character '"+c+"' when parsing was finish at position " + fullPosition);
+                throw error(source, Category.TRAILING_CONTENT, fullPosition, "Unexpected character '%s' when parsing was finish at position %s", c);
             }
             if(identifierChars.indexOf(c) != -1 || separatorChars.indexOf(c) == -1) {
                 stringBuilder.append(c);
@@ -183,14 +272,14 @@ public class UniqlParser {
                 case LIST_SEPARATOR_CHAR :
                     switch (currentPart) {
                         case NAME:
-                            throw new UniqlParseException("Unexpected list separator char <"+LIST_SEPARATOR_CHAR+"> after '"+stringBuilder.toString()+"' at position "+(fullPosition));
+                            throw error(source, Category.UNEXPECTED_CHARACTER, fullPosition, "Unexpected list separator char <%s> after '%s' at position %s", LIST_SEPARATOR_CHAR, stringBuilder);
                         case FIELDS:
                             if(stringBuilder.length() == 0 && lastFieldType != FieldType.UNIQL) {
-                                throw new UniqlParseException("Unexpected list separator <"+LIST_SEPARATOR_CHAR+"> in '"+uniql.getName()+"' field at position "+(fullPosition));
+                                throw error(source, Category.UNEXPECTED_CHARACTER, fullPosition, "Unexpected list separator <%s> in '%s' field at position %s", LIST_SEPARATOR_CHAR, uniql.getName());
                             }
                             String lastFieldName = stringBuilder.toString();
                             if(lastFieldType != FieldType.UNIQL && !lastFieldName.isEmpty()) {
-                                uniql.addField(lastFieldName);
+                                uniql.addField(intern(names, lastFieldName));
                                 lastFieldType = FieldType.SIMPLE;
                             }
                             stringBuilder.setLength(0);
@@ -199,7 +288,7 @@ public class UniqlParser {
                             stringBuilder.append(c);
                             break;
                         case PAGE:
-                            throw new UniqlParseException("Unexpected list separator <"+LIST_SEPARATOR_CHAR+">  in '"+uniql.getName()+"' page at position "+(fullPosition));
+                            throw error(source, Category.UNEXPECTED_CHARACTER, fullPosition, "Unexpected list separator <%s>  in '%s' page at position %s", LIST_SEPARATOR_CHAR, uniql.getName());
                         case SORT:
                             stringBuilder.append(c);
                             break;
@@ -218,15 +307,15 @@ public class UniqlParser {
                     switch (currentPart) {
                         case NAME:
                             if(stringBuilder.length() == 0) {
-                                throw new UniqlParseException("Unexpected start definition char <"+START_DEF_CHAR+"> in name at position "+(fullPosition));
+                                throw error(source, Category.UNEXPECTED_CHARACTER, fullPosition, "Unexpected start definition char <%s> in name at position %s", START_DEF_CHAR);
                             }
-                            uniql.setName(stringBuilder.toString());
+                            uniql.setName(intern(names, stringBuilder.toString()));
                             stringBuilder.setLength(0);
                             currentPart = Part.FIELDS;
                             break;
                         case FIELDS:
                             if(stringBuilder.length() == 0) {
-                                throw new UniqlParseException("Unexpected start definition char <"+START_DEF_CHAR+"> in '"+uniql.getName()+"' field at position "+(fullPosition));
+                                throw error(source, Category.UNEXPECTED_CHARACTER, fullPosition, "Unexpected start definition char <%s> in '%s' field at position %s", START_DEF_CHAR, uniql.getName());
                             }
                             String prevIdentifier = stringBuilder.toString();
                             StringBuilder defBuilder = new StringBuilder();
@@ -245,14 +334,14 @@ public class UniqlParser {
                                 defBuilder.append(cc);
                                 if(startDefCharCount > 0 && startDefCharCount == endDefCharCount) {
                                     String fieldDef = defBuilder.toString();
-                                    uniql.addField(parse(fieldDef, fullLength, cStartPosition ));
+                                    uniql.addField(parse(fieldDef, source, startPosition + cStartPosition, names));
                                     break;
                                 }else {
                                     j++;
                                 }
                             }
                             if(startDefCharCount != endDefCharCount) {
-                                throw new UniqlParseException("Unclosed part char <"+END_DEF_CHAR+"> for '"+defBuilder.toString()+"' at position "+(fullPosition));
+                                throw error(source, Category.UNCLOSED_DEFINITION, fullPosition, "Unclosed part char <%s> for '%s' at position %s", END_DEF_CHAR, defBuilder);
                             }
                             i = cStartPosition + defBuilder.length() - 1;
                             lastFieldType = FieldType.UNIQL;
@@ -262,9 +351,9 @@ public class UniqlParser {
                             stringBuilder.append(c);
                             break;
                         case PAGE:
-                            throw new UniqlParseException("Unexpected start definition char <"+START_DEF_CHAR+">  in '"+uniql.getName()+"' query at position "+(fullPosition));
+                            throw error(source, Category.UNEXPECTED_CHARACTER, fullPosition, "Unexpected start definition char <%s>  in '%s' query at position %s", START_DEF_CHAR, uniql.getName());
                         case SORT:
-                            throw new UniqlParseException("Unexpected start definition char <"+START_DEF_CHAR+">  in '"+uniql.getName()+"' sort at position "+(fullPosition));
+                            throw error(source, Category.UNEXPECTED_CHARACTER, fullPosition, "Unexpected start definition char <%s>  in '%s' sort at position %s", START_DEF_CHAR, uniql.getName());
                     }
                     break;
 
@@ -279,11 +368,11 @@ public class UniqlParser {
                 case PART_GROUP_DELIMITER_CHAR:
                     switch (currentPart) {
                         case NAME:
-                            throw new UniqlParseException("Unexpected part delimiter <"+PART_GROUP_DELIMITER_CHAR+"> after '"+stringBuilder.toString()+"' at position "+(fullPosition));
+                            throw error(source, Category.UNEXPECTED_CHARACTER, fullPosition, "Unexpected part delimiter <%s> after '%s' at position %s", PART_GROUP_DELIMITER_CHAR, stringBuilder);
                         case FIELDS:
                             String lastFieldName = stringBuilder.toString();
                             if(lastFieldType != FieldType.UNIQL && !lastFieldName.isEmpty()) {
-                                uniql.addField(lastFieldName);
+                                uniql.addField(intern(names, lastFieldName));
                             }
                             stringBuilder.setLength(0);
                             currentPart = Part.QUERY;
@@ -296,23 +385,17 @@ public class UniqlParser {
                         case PAGE:
                             if(stringBuilder.length()>0) {
                                 String pageString = stringBuilder.toString();
-                                int pageNumber = 1;
-                                int pageSize = 0;
-                                Pattern pattern = Pattern.compile("^(\\d+)-(\\d+)$");
-                                Matcher matcher = pattern.matcher(pageString);
-                                if(matcher.matches()) {
-                                    pageNumber = Integer.parseInt(matcher.group(1));
-                                    pageSize = Integer.parseInt(matcher.group(2));
-                                }else {
-                                    throw new UniqlParseException("Bad setPage definition in '"+uniql.getName()+"' at position "+(fullPosition-pageString.length()));
+                                PageRequest pageRequest = toPage(pageString);
+                                if(pageRequest == null) {
+                                    throw error(source, Category.BAD_PAGE, fullPosition-pageString.length(), "Bad setPage definition in '%s' at position %s", uniql.getName());
                                 }
-                                uniql.setPage(PageRequest.of(pageNumber, pageSize));
+                                uniql.setPage(pageRequest);
                             }
                             stringBuilder.setLength(0);
                             currentPart = Part.SORT;
                             break;
                         case SORT:
-                            throw new UniqlParseException("Unexpected part delimiter <"+PART_GROUP_DELIMITER_CHAR+"> arround sort, in '"+uniql.getName()+"' at position "+(fullPosition));
+                            throw error(source, Category.UNEXPECTED_CHARACTER, fullPosition, "Unexpected part delimiter <%s> arround sort, in '%s' at position %s", PART_GROUP_DELIMITER_CHAR, uniql.getName());
                     }
                     break;
 
@@ -327,11 +410,11 @@ public class UniqlParser {
                 case END_DEF_CHAR:
                     switch (currentPart) {
                         case NAME:
-                            throw new UniqlParseException("Unexpected end definition char <"+END_DEF_CHAR+"> after '"+stringBuilder.toString()+"' at position "+(fullPosition));
+                            throw error(source, Category.UNEXPECTED_CHARACTER, fullPosition, "Unexpected end definition char <%s> after '%s' at position %s", END_DEF_CHAR, stringBuilder);
                         case FIELDS:
                             String lastFieldName = stringBuilder.toString();
                             if(lastFieldType != FieldType.UNIQL && !lastFieldName.isEmpty()) {
-                                uniql.addField(lastFieldName);
+                                uniql.addField(intern(names, lastFieldName));
                             }
                             break;
                         case QUERY:
@@ -340,24 +423,17 @@ public class UniqlParser {
                         case PAGE:
                             if(stringBuilder.length()>0) {
                                 String pageString = stringBuilder.toString();
-                                // todo remove
-                                System.out.println(pageString);
-                                Pattern pattern = Pattern.compile("^(\\d+)-(\\d+)$");
-                                Matcher matcher = pattern.matcher(pageString);
-                                if(matcher.matches()) {
-                                    int pageNumber = Integer.parseInt(matcher.group(1));;
-                                    int pageSize = Integer.parseInt(matcher.group(2));;
-                                    uniql.setPage(PageRequest.of(pageNumber, pageSize));
-                                }else {
-                                    throw new UniqlParseException("Bad setPage definition in '"+uniql.getName()+"' at position "+(fullPosition-pageString.length()));
+                                PageRequest pageRequest = toPage(pageString);
+                                if(pageRequest == null) {
+                                    throw error(source, Category.BAD_PAGE, fullPosition-pageString.length(), "Bad setPage definition in '%s' at position %s", uniql.getName());
                                 }
+                                uniql.setPage(pageRequest);
                             }
                             break;
                         case SORT:
                             if(stringBuilder.length()>0) {
                                 String sortString = stringBuilder.toString();
-                                Pattern pattern = Pattern.compile("^([+-]?)((?:\\w+)(?:,\\s*\\w+)*)$");
-                                Matcher matcher = pattern.matcher(sortString);
+                                Matcher matcher = SORT_PATTERN.matcher(sortString);
                                 if(matcher.matches()) {
                                     Direction dir = Direction.ASC;
                                     if(matcher.group(1).length() > 0) {
@@ -366,9 +442,12 @@ public class UniqlParser {
                                         }
                                     }
                                     String[] fieldsList = matcher.group(2).split(",");
+                                    if(names != null) {
+                                        fieldsList = names.intern(fieldsList);
+                                    }
                                     uniql.setSort(SortRequest.of(dir, fieldsList));
                                 }else {
-                                    throw new UniqlParseException("Bad setSort definition in '"+uniql.getName()+"' at position "+(fullPosition-sortString.length()));
+                                    throw error(source, Category.BAD_SORT, fullPosition-sortString.length(), "Bad setSort definition in '%s' at position %s", uniql.getName());
                                 }
                             }
                             break;
@@ -381,25 +460,144 @@ public class UniqlParser {
         }
         if(!hasFinish) {
             if(currentPart == Part.NAME) {
-                uniql.setName(stringBuilder.toString());
+                uniql.setName(intern(names, stringBuilder.toString()));
             }
         }
         return uniql;
     }
 
+    /**
+     * Count the nodes of a Uniql tree and measure its depth
+     * @param uniql the Uniql root
+     * @param depth the depth of the given root
+     * @param measures the measures holder, index 0 is node count and index 1 is max depth
+     */
+    private static void measure(Uniql uniql, int depth, int[] measures) {
+        measures[0]++;
+        if(depth > measures[1]) {
+            measures[1] = depth;
+        }
+        Map<String, Uniql> fields = uniql.getFields();
+        if(fields != null) {
+            for (Uniql field : fields.values()) {
+                measure(field, depth + 1, measures);
+            }
+        }
+    }
+
+    /**
+     * Install the metrics receiving parse and model measures
+     * @param metrics the metrics, null restores {@link UniqlMetrics#NOOP}
+     */
+    public static void setMetrics(UniqlMetrics metrics) {
+        UniqlParser.metrics = metrics == null ? UniqlMetrics.NOOP : metrics;
+    }
+
+    public static UniqlMetrics getMetrics() {
+        return metrics;
+    }
+
     public static String toModel(Uniql uniql) {
-        return toModel(uniql, false, 0);
+        return toModel(uniql, false);
     }
 
     public static String toModel(Uniql uniql, boolean format) {
-        return toModel(uniql, format, 0);
+        UniqlMetrics metrics = UniqlParser.metrics;
+        if(metrics == UniqlMetrics.NOOP) {
+            return toModel(uniql, format, 0);
+        }
+        metrics.modelWriteStarted();
+        long start = System.nanoTime();
+        String model = toModel(uniql, format, 0);
+        metrics.modelWritten(System.nanoTime() - start, model.length());
+        return model;
     }
 
     public static Uniql parse(String model) throws UniqlParseException {
+        return parse(model, null);
+    }
+
+    /**
+     * Parse Uniql string model interning its names in a shared table
+     * @param model the Uniql string model
+     * @param names the table interning parsed names, null to keep them as parsed
+     * @return parsed Uniql object
+     * @throws UniqlParseException when parse fail
+     */
+    public static Uniql parse(String model, UniqlNameTable names) throws UniqlParseException {
+        UniqlMetrics metrics = UniqlParser.metrics;
+        if(metrics == UniqlMetrics.NOOP) {
+            return parseModel(model, names);
+        }
+        metrics.parseStarted();
+        long start = System.nanoTime();
+        Uniql uniql;
+        try {
+            uniql = parseModel(model, names);
+        } catch (UniqlParseException e) {
+            metrics.parseFailed(System.nanoTime() - start, model == null ? 0 : model.length(), e.getCategory());
+            throw e;
+        } catch (RuntimeException | StackOverflowError e) {
+            metrics.parseFailed(System.nanoTime() - start, model == null ? 0 : model.length(), Category.OTHER);
+            throw e;
+        }
+        long nanos = System.nanoTime() - start;
+        int[] measures = new int[2];
+        measure(uniql, 1, measures);
+        metrics.parsed(nanos, model.length(), measures[0], measures[1]);
+        return uniql;
+    }
+
+    /**
+     * Parse many Uniql string models in parallel, sharing a new name table between them
+     * @param models the Uniql string models
+     * @return the parsed Uniql objects and the failures by model index
+     */
+    public static UniqlBatch parseAll(Collection<String> models) {
+        return parseAll(models, new UniqlNameTable());
+    }
+
+    public static UniqlBatch parseAll(Stream<String> models) {
+        return parseAll(models.collect(Collectors.toList()), new UniqlNameTable());
+    }
+
+    /**
+     * Parse many Uniql string models in parallel, sharing the given name table between them.
+     * A model failing for another reason than a parse error, like a too deep nesting, is reported
+     * as a {@link Category#OTHER} failure wrapping its cause, without failing the other models.
+     * @param models the Uniql string models
+     * @param names the table interning parsed names, null to keep them as parsed
+     * @return the parsed Uniql objects and the failures by model index
+     */
+    public static UniqlBatch parseAll(Collection<String> models, UniqlNameTable names) {
+        final String[] modelArray = models.toArray(new String[0]);
+        final Uniql[] results = new Uniql[modelArray.length];
+        final UniqlParseException[] errors = new UniqlParseException[modelArray.length];
+        IntStream.range(0, modelArray.length).parallel().forEach(i -> {
+            try {
+                results[i] = parse(modelArray[i], names);
+            } catch (UniqlParseException e) {
+                errors[i] = e;
+            } catch (RuntimeException | StackOverflowError e) {
+                errors[i] = new UniqlParseException(Category.OTHER, "Unexpected failure parsing model " + i + ": " + e, e);
+            }
+        });
+        return new UniqlBatch(results, errors);
+    }
+
+    /**
+     * Validate Uniql string model without building it, nor throwing on failure
+     * @param model the Uniql string model
+     * @return the validation result, carrying failure category, position and expected tokens
+     */
+    public static UniqlValidation validate(String model) {
+        return UniqlValidator.validate(model);
+    }
+
+    private static Uniql parseModel(String model, UniqlNameTable names) throws UniqlParseException {
         if(model == null) {
-            throw new UniqlParseException("Null content at column " + 0);
+            throw UniqlParseException.stackless(Category.NULL_CONTENT, 0, "Null content at column %s", 0);
         }
-        return parse(model, model.length(), 0);
+        return parse(model, model, 0, names);
     }
 }
-
@@ -0,0 +1,315 @@
+package com.juniormbe.uniql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+
+/**
+ * The UniqlScatterGather class
+ *
+ * Executes a Uniql over partitioned shards. Each shard receives the Uniql with its page
+ * rewritten to the first number*size rows, the only ones which can reach the requested page,
+ * shards run concurrently and their sorted rows are k-way merged with the Uniql sort comparator
+ * before the requested page is cut. Page numbers start at 1.
+ *
+ * @param <T> the row type
+ * @author Junior Mbe
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class UniqlScatterGather<T> {
+
+    /**
+     * Shard failure policies
+     */
+    public enum FailurePolicy {
+        /**
+         * Any shard failure fails the execution, remaining shards are cancelled
+         */
+        FAIL,
+        /**
+         * Failed shards are left out, the result is marked partial
+         */
+        PARTIAL
+    }
+
+    private final List<UniqlShard<T>> shards;
+    private final BiFunction<? super T, String, ?> fieldReader;
+    private final ExecutorService executor;
+    private FailurePolicy failurePolicy = FailurePolicy.FAIL;
+    private long timeoutNanos;
+
+    public FailurePolicy getFailurePolicy() {
+        return failurePolicy;
+    }
+
+    public UniqlScatterGather<T> setFailurePolicy(FailurePolicy failurePolicy) {
+        this.failurePolicy = failurePolicy;
+        return this;
+    }
+
+    public long getTimeout(TimeUnit unit) {
+        return unit.convert(timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Define how long to wait for all shards, shards still running then are cancelled and failed
+     * @param timeout the timeout, 0 to wait without limit
+     * @param unit the timeout unit
+     * @return this coordinator
+     */
+    public UniqlScatterGather<T> setTimeout(long timeout, TimeUnit unit) {
+        this.timeoutNanos = unit.toNanos(timeout);
+        return this;
+    }
+
+    private UniqlScatterGather(List<UniqlShard<T>> shards, BiFunction<? super T, String, ?> fieldReader, ExecutorService executor) {
+        this.shards = shards;
+        this.fieldReader = fieldReader;
+        this.executor = executor;
+    }
+
+    /**
+     * Build coordinator
+     * @param shards the shards holding the dataset partitions
+     * @param fieldReader the function reading a row field value by field name, used to merge sorted rows
+     * @param executor the executor running shards
+     * @param <T> the row type
+     * @return the coordinator
+     */
+    public static <T> UniqlScatterGather<T> of(List<? extends UniqlShard<T>> shards, BiFunction<? super T, String, ?> fieldReader, ExecutorService executor) {
+        return new UniqlScatterGather<T>(new ArrayList<UniqlShard<T>>(shards), fieldReader, executor);
+    }
+
+    /**
+     * Rows of a shard being merged
+     */
+    private static final class Cursor<T> {
+        private final int shard;
+        private final List<T> rows;
+        private final int limit;
+        private int position;
+
+        private Cursor(int shard, List<T> rows, int limit) {
+            this.shard = shard;
+            this.rows = rows;
+            this.limit = Math.min(limit, rows.size());
+        }
+
+        private boolean hasNext() {
+            return position < limit;
+        }
+
+        private T head() {
+            return rows.get(position);
+        }
+    }
+
+    /**
+     * Execute Uniql over all shards
+     * @param uniql the Uniql to execute, each shard receives its own deep copy whose fields maps cannot be modified
+     * @return the rows of the requested page and the shards failures left out
+     * @throws UniqlExecutionException when a shard fail under {@link FailurePolicy#FAIL} or when interrupted
+     */
+    public UniqlGatherResult<T> execute(Uniql uniql) throws UniqlExecutionException {
+        PageRequest page = uniql.getPage();
+        long offset = 0;
+        int size = Integer.MAX_VALUE;
+        int shardLimit = Integer.MAX_VALUE;
+        PageRequest shardPage = null;
+        if(page != null) {
+            size = Math.max(0, page.getSize());
+            offset = (long) (Math.max(1, page.getNumber()) - 1) * size;
+            shardLimit = (int) Math.min(Integer.MAX_VALUE, offset + size);
+            if(size == 0) {
+                return new UniqlGatherResult<T>(new ArrayList<T>(), new LinkedHashMap<Integer, Exception>());
+            }
+            shardPage = PageRequest.of(1, shardLimit);
+        }
+
+        Map<Integer, Exception> failures = new LinkedHashMap<Integer, Exception>();
+        List<List<T>> shardRows = scatter(uniql, shardPage, failures);
+        List<Cursor<T>> cursors = new ArrayList<Cursor<T>>(shardRows.size());
+        for (int i = 0; i < shardRows.size(); i++) {
+            if(shardRows.get(i) != null) {
+                cursors.add(new Cursor<T>(i, shardRows.get(i), shardLimit));
+            }
+        }
+        return new UniqlGatherResult<T>(gather(cursors, uniql.getSort(), offset, size), failures);
+    }
+
+    /**
+     * Deep copy Uniql for a shard, fields maps of the copy cannot be modified
+     * @param uniql the Uniql to copy
+     * @param page the page of the copy
+     * @return the copy
+     */
+    private static Uniql copy(Uniql uniql, PageRequest page) {
+        Uniql copy = Uniql.build(uniql.getName())
+          .setQuery(uniql.getQuery())
+          .setPage(page == null ? null : PageRequest.of(page.getNumber(), page.getSize()));
+        SortRequest sort = uniql.getSort();
+        if(sort != null) {
+            copy.setSort(SortRequest.of(sort.getDirection(), sort.getFieldNames() == null ? null : sort.getFieldNames().clone()));
+        }
+        Map<String, Uniql> fields = uniql.getFields();
+        if(fields != null) {
+            Map<String, Uniql> fieldsCopy = new HashMap<String, Uniql>(fields.size() * 2);
+            for (Map.Entry<String, Uniql> entry : fields.entrySet()) {
+                fieldsCopy.put(entry.getKey(), copy(entry.getValue(), entry.getValue().getPage()));
+            }
+            copy.setFields(Collections.unmodifiableMap(fieldsCopy));
+        }
+        return copy;
+    }
+
+    /**
+     * Run shards concurrently, each on its own copy of the Uniql
+     * @param uniql the Uniql to execute
+     * @param shardPage the page sent to shards, null for all rows
+     * @param failures the failures of shards left out, filled by shard index
+     * @return the rows by shard index, null for shards left out
+     * @throws UniqlExecutionException when a shard fail under {@link FailurePolicy#FAIL} or when interrupted
+     */
+    private List<List<T>> scatter(Uniql uniql, PageRequest shardPage, Map<Integer, Exception> failures) throws UniqlExecutionException {
+        final UniqlMetrics metrics = UniqlParser.getMetrics();
+        CompletionService<List<T>> completionService = new ExecutorCompletionService<List<T>>(executor);
+        Map<Future<List<T>>, Integer> pending = new IdentityHashMap<Future<List<T>>, Integer>();
+        List<List<T>> shardRows = new ArrayList<List<T>>(Collections.<List<T>>nCopies(shards.size(), null));
+
+        for (int i = 0; i < shards.size(); i++) {
+            final UniqlShard<T> shard = shards.get(i);
+            final Uniql shardUniql = copy(uniql, shardPage);
+            pending.put(completionService.submit(() -> {
+                metrics.nodeExecutionStarted(shardUniql);
+                long start = System.nanoTime();
+                boolean failed = true;
+                try {
+                    List<T> rows = shard.execute(shardUniql);
+                    failed = false;
+                    return rows == null ? Collections.<T>emptyList() : rows;
+                } finally {
+                    metrics.nodeExecuted(shardUniql, System.nanoTime() - start, failed);
+                }
+            }), i);
+        }
+
+        long deadline = System.nanoTime() + timeoutNanos;
+        try {
+            while (!pending.isEmpty()) {
+                Future<List<T>> future;
+                if(timeoutNanos > 0) {
+                    future = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if(future == null) {
+                        for (Map.Entry<Future<List<T>>, Integer> entry : pending.entrySet()) {
+                            entry.getKey().cancel(true);
+                            fail(entry.getValue(), new TimeoutException("Shard " + entry.getValue() + " timed out"), failures, pending);
+                        }
+                        break;
+                    }
+                } else {
+                    future = completionService.take();
+                }
+                int index = pending.remove(future);
+                try {
+                    shardRows.set(index, future.get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if(cause instanceof Error) {
+                        cancel(pending);
+                        throw (Error) cause;
+                    }
+                    fail(index, (Exception) cause, failures, pending);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(pending);
+            throw new UniqlExecutionException("Interrupted while gathering shards", e);
+        }
+        return shardRows;
+    }
+
+    /**
+     * Apply failure policy to a shard failure
+     * @param index the failed shard index
+     * @param cause the failure cause
+     * @param failures the failures of shards left out
+     * @param pending the shards still running
+     * @throws UniqlExecutionException under {@link FailurePolicy#FAIL}
+     */
+    private void fail(int index, Exception cause, Map<Integer, Exception> failures, Map<Future<List<T>>, Integer> pending) throws UniqlExecutionException {
+        if(failurePolicy == FailurePolicy.FAIL) {
+            cancel(pending);
+            throw new UniqlExecutionException("Shard " + index + " failed: " + cause.getMessage(), cause);
+        }
+        failures.put(index, cause);
+    }
+
+    private void cancel(Map<Future<List<T>>, Integer> pending) {
+        for (Future<List<T>> future : pending.keySet()) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * K-way merge shard rows and cut requested page
+     * @param cursors the shard rows
+     * @param sort the sort, rows are concatenated in shard order without it
+     * @param offset the number of leading rows to skip
+     * @param size the page size
+     * @return the page rows
+     */
+    private List<T> gather(List<Cursor<T>> cursors, SortRequest sort, long offset, int size) {
+        List<T> rows = new ArrayList<T>();
+        if(sort == null) {
+            for (Cursor<T> cursor : cursors) {
+                for (; cursor.hasNext() && rows.size() < size; cursor.position++) {
+                    if(offset > 0) {
+                        offset--;
+                    } else {
+                        rows.add(cursor.head());
+                    }
+                }
+            }
+            return rows;
+        }
+        final Comparator<T> comparator = sort.comparator(fieldReader);
+        PriorityQueue<Cursor<T>> queue = new PriorityQueue<Cursor<T>>(Math.max(1, cursors.size()), (left, right) -> {
+            int result = comparator.compare(left.head(), right.head());
+            return result != 0 ? result : Integer.compare(left.shard, right.shard);
+        });
+        for (Cursor<T> cursor : cursors) {
+            if(cursor.hasNext()) {
+                queue.add(cursor);
+            }
+        }
+        while (!queue.isEmpty() && rows.size() < size) {
+            Cursor<T> cursor = queue.poll();
+            if(offset > 0) {
+                offset--;
+            } else {
+                rows.add(cursor.head());
+            }
+            cursor.position++;
+            if(cursor.hasNext()) {
+                queue.add(cursor);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,26 @@
+package com.juniormbe.uniql;
+
+import java.util.List;
+
+/**
+ * The UniqlShard interface
+ *
+ * A partition of a dataset able to execute a Uniql, in process or through a transport.
+ * A shard returns its rows ordered by the Uniql sort and never more than the Uniql page size.
+ *
+ * @param <T> the row type
+ * @author Junior Mbe
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@FunctionalInterface
+public interface UniqlShard<T> {
+
+    /**
+     * Execute Uniql on this shard
+     * @param uniql the Uniql to execute, its page is always the first one
+     * @return the rows, sorted by the Uniql sort when it has one
+     * @throws Exception when execution fail
+     */
+    List<T> execute(Uniql uniql) throws Exception;
+}
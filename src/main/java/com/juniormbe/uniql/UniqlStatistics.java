@@ -0,0 +1,169 @@
+package com.juniormbe.uniql;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The UniqlStatistics class
+ *
+ * Built-in lock-free {@link UniqlMetrics} implementation accumulating counters and histograms.
+ *
+ * @author Junior Mbe
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class UniqlStatistics implements UniqlMetrics {
+    private final UniqlHistogram parseNanos = new UniqlHistogram();
+    private final UniqlHistogram modelLengths = new UniqlHistogram();
+    private final UniqlHistogram nodeCounts = new UniqlHistogram();
+    private final UniqlHistogram depths = new UniqlHistogram();
+    private final UniqlHistogram failureNanos = new UniqlHistogram();
+    private final UniqlHistogram failureModelLengths = new UniqlHistogram();
+    private final UniqlHistogram writeNanos = new UniqlHistogram();
+    private final UniqlHistogram executionNanos = new UniqlHistogram();
+    private final Map<UniqlParseException.Category, LongAdder> failures = new EnumMap<>(UniqlParseException.Category.class);
+    private final LongAdder executionFailures = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    public UniqlStatistics() {
+        for (UniqlParseException.Category category : UniqlParseException.Category.values()) {
+            failures.put(category, new LongAdder());
+        }
+    }
+
+    @Override
+    public void parsed(long nanos, int modelLength, int nodeCount, int depth) {
+        parseNanos.record(nanos);
+        modelLengths.record(modelLength);
+        nodeCounts.record(nodeCount);
+        depths.record(depth);
+    }
+
+    @Override
+    public void parseFailed(long nanos, int modelLength, UniqlParseException.Category category) {
+        failureNanos.record(nanos);
+        failureModelLengths.record(modelLength);
+        failures.get(category).increment();
+    }
+
+    @Override
+    public void modelWritten(long nanos, int modelLength) {
+        writeNanos.record(nanos);
+    }
+
+    @Override
+    public void cacheHit() {
+        cacheHits.increment();
+    }
+
+    @Override
+    public void cacheMiss() {
+        cacheMisses.increment();
+    }
+
+    @Override
+    public void nodeExecuted(Uniql node, long nanos, boolean failed) {
+        executionNanos.record(nanos);
+        if(failed) {
+            executionFailures.increment();
+        }
+    }
+
+    public UniqlHistogram getParseNanos() {
+        return parseNanos;
+    }
+
+    public UniqlHistogram getModelLengths() {
+        return modelLengths;
+    }
+
+    public UniqlHistogram getNodeCounts() {
+        return nodeCounts;
+    }
+
+    public UniqlHistogram getDepths() {
+        return depths;
+    }
+
+    public UniqlHistogram getFailureNanos() {
+        return failureNanos;
+    }
+
+    public UniqlHistogram getFailureModelLengths() {
+        return failureModelLengths;
+    }
+
+    public UniqlHistogram getWriteNanos() {
+        return writeNanos;
+    }
+
+    public UniqlHistogram getExecutionNanos() {
+        return executionNanos;
+    }
+
+    public long getFailureCount(UniqlParseException.Category category) {
+        return failures.get(category).sum();
+    }
+
+    public long getFailureCount() {
+        long total = 0;
+        for (LongAdder adder : failures.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    public long getExecutionFailures() {
+        return executionFailures.sum();
+    }
+
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    public double getCacheHitRatio() {
+        long hits = getCacheHits();
+        long total = hits + getCacheMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public void reset() {
+        parseNanos.reset();
+        modelLengths.reset();
+        nodeCounts.reset();
+        depths.reset();
+        failureNanos.reset();
+        failureModelLengths.reset();
+        writeNanos.reset();
+        executionNanos.reset();
+        for (LongAdder adder : failures.values()) {
+            adder.reset();
+        }
+        executionFailures.reset();
+        cacheHits.reset();
+        cacheMisses.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "UniqlStatistics{" +
+          "parseNanos=" + parseNanos +
+          ", modelLengths=" + modelLengths +
+          ", nodeCounts=" + nodeCounts +
+          ", depths=" + depths +
+          ", failureNanos=" + failureNanos +
+          ", failureModelLengths=" + failureModelLengths +
+          ", writeNanos=" + writeNanos +
+          ", executionNanos=" + executionNanos +
+          ", executionFailures=" + getExecutionFailures() +
+          ", failures=" + getFailureCount() +
+          ", cacheHitRatio=" + getCacheHitRatio() +
+          '}';
+    }
+}
@@ -0,0 +1,96 @@
+package com.juniormbe.uniql;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The UniqlValidation class
+ *
+ * Result of a validate-only check of a Uniql string model. A valid result is shared,
+ * an invalid one carries the failure category, the position of the offending character
+ * in the given model and the tokens which would have been accepted there.
+ *
+ * @author Junior Mbe
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class UniqlValidation {
+
+    /**
+     * Uniql model tokens
+     */
+    public enum Token {
+        IDENTIFIER,
+        START_DEF,
+        END_DEF,
+        LIST_SEPARATOR,
+        PART_DELIMITER,
+        PAGE,
+        SORT,
+        END_OF_MODEL
+    }
+
+    static final UniqlValidation VALID = new UniqlValidation(null, -1, Collections.<Token>emptySet());
+
+    private final UniqlParseException.Category category;
+    private final int position;
+    private final Set<Token> expected;
+
+    private UniqlValidation(UniqlParseException.Category category, int position, Set<Token> expected) {
+        this.category = category;
+        this.position = position;
+        this.expected = expected;
+    }
+
+    static UniqlValidation error(UniqlParseException.Category category, int position, Set<Token> expected) {
+        return new UniqlValidation(category, position, expected);
+    }
+
+    static Set<Token> tokens(Token first, Token... rest) {
+        return Collections.unmodifiableSet(EnumSet.of(first, rest));
+    }
+
+    public boolean isValid() {
+        return category == null;
+    }
+
+    /**
+     * @return the failure category, null when valid
+     */
+    public UniqlParseException.Category getCategory() {
+        return category;
+    }
+
+    /**
+     * @return the position of the offending character in the model as given, blank chars included,
+     * the same as {@link UniqlParseException#getPosition()}, -1 when valid
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    public Set<Token> getExpected() {
+        return expected;
+    }
+
+    /**
+     * Build the stackless exception describing this failure
+     * @return the exception, null when valid
+     */
+    public UniqlParseException toException() {
+        if(isValid()) {
+            return null;
+        }
+        return UniqlParseException.stackless(category, position, "%s at position %s, expected %s", category, position, expected);
+    }
+
+    @Override
+    public String toString() {
+        return "UniqlValidation{" +
+          "category=" + category +
+          ", position=" + position +
+          ", expected=" + expected +
+          '}';
+    }
+}
@@ -0,0 +1,313 @@
+package com.juniormbe.uniql;
+
+import com.juniormbe.uniql.UniqlParseException.Category;
+import com.juniormbe.uniql.UniqlValidation.Token;
+
+import java.util.Set;
+
+/**
+ * The UniqlValidator class
+ *
+ * Checks a Uniql string model against the grammar accepted by {@link UniqlParser} in a single
+ * iterative scan, without building Uniql nodes, strings nor exceptions, whatever the nesting depth. Blank characters are skipped in
+ * place the same way the parser strips them, reported positions refer to the given model.
+ *
+ * @author Junior Mbe
+ * @version 1.0
+ * @since 19/10/2026
+ */
+final class UniqlValidator {
+
+    /**
+     * Uniql definition parts
+     */
+    private static final int FIELDS = 0;
+    private static final int QUERY = 1;
+    private static final int PAGE = 2;
+    private static final int SORT = 3;
+
+    /**
+     * Uniql field types
+     */
+    private static final int NO_FIELD = 0;
+    private static final int SIMPLE_FIELD = 1;
+    private static final int UNIQL_FIELD = 2;
+
+    /**
+     * Page definition states, <number>-<size>
+     */
+    private static final int PAGE_START = 0;
+    private static final int PAGE_NUMBER = 1;
+    private static final int PAGE_SIZE_START = 2;
+    private static final int PAGE_SIZE = 3;
+    private static final int PAGE_BAD = 4;
+
+    /**
+     * Sort definition states, [+-]<field>(,<field>)*
+     */
+    private static final int SORT_START = 0;
+    private static final int SORT_FIELD_START = 1;
+    private static final int SORT_FIELD = 2;
+    private static final int SORT_BAD = 3;
+
+    private static final Set<Token> NAME_TOKENS = UniqlValidation.tokens(Token.IDENTIFIER);
+    private static final Set<Token> AFTER_NAME_TOKENS = UniqlValidation.tokens(Token.IDENTIFIER, Token.START_DEF, Token.END_OF_MODEL);
+    private static final Set<Token> FIELD_TOKENS = UniqlValidation.tokens(Token.IDENTIFIER, Token.PART_DELIMITER, Token.END_DEF);
+    private static final Set<Token> AFTER_UNIQL_FIELD_TOKENS = UniqlValidation.tokens(Token.IDENTIFIER, Token.LIST_SEPARATOR, Token.PART_DELIMITER, Token.END_DEF);
+    private static final Set<Token> PAGE_TOKENS = UniqlValidation.tokens(Token.PAGE, Token.PART_DELIMITER, Token.END_DEF);
+    private static final Set<Token> SORT_TOKENS = UniqlValidation.tokens(Token.SORT, Token.END_DEF);
+    private static final Set<Token> BAD_PAGE_TOKENS = UniqlValidation.tokens(Token.PAGE);
+    private static final Set<Token> BAD_SORT_TOKENS = UniqlValidation.tokens(Token.SORT);
+    private static final Set<Token> END_DEF_TOKENS = UniqlValidation.tokens(Token.END_DEF);
+    private static final Set<Token> END_OF_MODEL_TOKENS = UniqlValidation.tokens(Token.END_OF_MODEL);
+
+    private static final long MAX_PAGE_VALUE = Integer.MAX_VALUE;
+
+    private final String model;
+    private final int length;
+
+    private UniqlValidator(String model) {
+        this.model = model;
+        this.length = model.length();
+    }
+
+    /**
+     * Validate Uniql string model
+     * @param model the Uniql string model
+     * @return {@link UniqlValidation#VALID} or the first failure found
+     */
+    static UniqlValidation validate(String model) {
+        if(model == null) {
+            return UniqlValidation.error(Category.NULL_CONTENT, 0, NAME_TOKENS);
+        }
+        return new UniqlValidator(model).validateModel();
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '{' || c == '}' || c == '|' || c == ',';
+    }
+
+    private int skipBlanks(int from) {
+        while (from < length && UniqlParser.isBlank(model.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    /**
+     * Check if definition opened at given position is closed somewhere in the model
+     * @param start the position of the start definition char
+     * @return true when a matching end definition char exists
+     */
+    private boolean isClosed(int start) {
+        int depth = 0;
+        for (int i = start; i < length; i++) {
+            char c = model.charAt(i);
+            if(c == '{') {
+                depth++;
+            } else if(c == '}' && --depth == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Build failure, the parser reporting an unclosed outermost nested field before any failure inside it
+     * @param category the failure category
+     * @param position the failure position
+     * @param expected the expected tokens
+     * @param nestedStart the start definition char position of the outermost nested field being validated, -1 if none
+     * @return the failure
+     */
+    private UniqlValidation fail(Category category, int position, Set<Token> expected, int nestedStart) {
+        if(nestedStart >= 0 && !isClosed(nestedStart)) {
+            return UniqlValidation.error(Category.UNCLOSED_DEFINITION, nestedStart, END_DEF_TOKENS);
+        }
+        return UniqlValidation.error(category, position, expected);
+    }
+
+    private UniqlValidation validateModel() {
+        int i = skipBlanks(0);
+        if(i == length) {
+            return UniqlValidation.error(Category.EMPTY_CONTENT, 0, NAME_TOKENS);
+        }
+        int nameLength = 0;
+        for (; i < length; i++) {
+            char c = model.charAt(i);
+            if(UniqlParser.isBlank(c)) {
+                continue;
+            }
+            if(c == '{') {
+                if(nameLength == 0) {
+                    return UniqlValidation.error(Category.UNEXPECTED_CHARACTER, i, NAME_TOKENS);
+                }
+                break;
+            }
+            if(isSeparator(c)) {
+                return UniqlValidation.error(Category.UNEXPECTED_CHARACTER, i, nameLength == 0 ? NAME_TOKENS : AFTER_NAME_TOKENS);
+            }
+            nameLength++;
+        }
+        if(i == length) {
+            return UniqlValidation.VALID;
+        }
+
+        // definitions opened, root included, nested fields never need their parent state back
+        // as a parent is always in fields part, after a Uniql field, once its nested field closes
+        int depth = 1;
+        int nestedStart = -1;
+        int part = FIELDS;
+        int textLength = 0;
+        int textStart = -1;
+        int lastFieldType = NO_FIELD;
+        int queryBraces = 0;
+        int pageState = PAGE_START;
+        long pageValue = 0;
+        int sortState = SORT_START;
+
+        for (i = i + 1; i < length; i++) {
+            char c = model.charAt(i);
+            if(UniqlParser.isBlank(c)) {
+                continue;
+            }
+            switch (c) {
+                case ',':
+                    switch (part) {
+                        case FIELDS:
+                            if(textLength == 0 && lastFieldType != UNIQL_FIELD) {
+                                return fail(Category.UNEXPECTED_CHARACTER, i, FIELD_TOKENS, nestedStart);
+                            }
+                            if(lastFieldType != UNIQL_FIELD) {
+                                lastFieldType = SIMPLE_FIELD;
+                            }
+                            textLength = 0;
+                            break;
+                        case QUERY:
+                            break;
+                        case PAGE:
+                            return fail(Category.UNEXPECTED_CHARACTER, i, PAGE_TOKENS, nestedStart);
+                        case SORT:
+                            if(textLength++ == 0) {
+                                textStart = i;
+                            }
+                            sortState = sortState == SORT_FIELD ? SORT_FIELD_START : SORT_BAD;
+                            break;
+                    }
+                    break;
+
+                case '{':
+                    switch (part) {
+                        case FIELDS:
+                            if(textLength == 0) {
+                                return fail(Category.UNEXPECTED_CHARACTER, i, lastFieldType == UNIQL_FIELD ? AFTER_UNIQL_FIELD_TOKENS : FIELD_TOKENS, nestedStart);
+                            }
+                            if(depth == 1) {
+                                nestedStart = i;
+                            }
+                            depth++;
+                            part = FIELDS;
+                            textLength = 0;
+                            lastFieldType = NO_FIELD;
+                            break;
+                        case QUERY:
+                            queryBraces++;
+                            break;
+                        case PAGE:
+                            return fail(Category.UNEXPECTED_CHARACTER, i, PAGE_TOKENS, nestedStart);
+                        case SORT:
+                            return fail(Category.UNEXPECTED_CHARACTER, i, SORT_TOKENS, nestedStart);
+                    }
+                    break;
+
+                case '|':
+                    switch (part) {
+                        case FIELDS:
+                            part = QUERY;
+                            break;
+                        case QUERY:
+                            part = PAGE;
+                            pageState = PAGE_START;
+                            pageValue = 0;
+                            break;
+                        case PAGE:
+                            if(textLength > 0 && pageState != PAGE_SIZE) {
+                                return fail(Category.BAD_PAGE, textStart, BAD_PAGE_TOKENS, nestedStart);
+                            }
+                            part = SORT;
+                            sortState = SORT_START;
+                            break;
+                        case SORT:
+                            return fail(Category.UNEXPECTED_CHARACTER, i, SORT_TOKENS, nestedStart);
+                    }
+                    textLength = 0;
+                    break;
+
+                case '}':
+                    if(part == PAGE && textLength > 0 && pageState != PAGE_SIZE) {
+                        return fail(Category.BAD_PAGE, textStart, BAD_PAGE_TOKENS, nestedStart);
+                    }
+                    if(part == SORT && textLength > 0 && sortState != SORT_FIELD) {
+                        return fail(Category.BAD_SORT, textStart, BAD_SORT_TOKENS, nestedStart);
+                    }
+                    if(--depth == 0) {
+                        int next = skipBlanks(i + 1);
+                        if(next < length) {
+                            return UniqlValidation.error(Category.TRAILING_CONTENT, next, END_OF_MODEL_TOKENS);
+                        }
+                        return UniqlValidation.VALID;
+                    }
+                    // start definition chars left in a nested query extend the nested field past this end
+                    if(queryBraces > 0) {
+                        return fail(Category.TRAILING_CONTENT, skipBlanks(i + 1), END_DEF_TOKENS, nestedStart);
+                    }
+                    if(depth == 1) {
+                        nestedStart = -1;
+                    }
+                    part = FIELDS;
+                    textLength = 0;
+                    lastFieldType = UNIQL_FIELD;
+                    break;
+
+                default:
+                    if(textLength++ == 0) {
+                        textStart = i;
+                    }
+                    if(part == PAGE) {
+                        if(c >= '0' && c <= '9') {
+                            switch (pageState) {
+                                case PAGE_START:
+                                case PAGE_SIZE_START:
+                                    pageState++;
+                                    pageValue = c - '0';
+                                    break;
+                                case PAGE_NUMBER:
+                                case PAGE_SIZE:
+                                    pageValue = pageValue * 10 + (c - '0');
+                                    break;
+                            }
+                            if(pageValue > MAX_PAGE_VALUE) {
+                                pageState = PAGE_BAD;
+                            }
+                        } else {
+                            pageState = c == '-' && pageState == PAGE_NUMBER ? PAGE_SIZE_START : PAGE_BAD;
+                        }
+                    } else if(part == SORT) {
+                        if(isWordChar(c)) {
+                            sortState = sortState == SORT_BAD ? SORT_BAD : SORT_FIELD;
+                        } else {
+                            sortState = (c == '+' || c == '-') && sortState == SORT_START ? SORT_FIELD_START : SORT_BAD;
+                        }
+                    }
+            }
+        }
+        if(depth > 1) {
+            return UniqlValidation.error(Category.UNCLOSED_DEFINITION, nestedStart, END_DEF_TOKENS);
+        }
+        return UniqlValidation.VALID;
+    }
+}
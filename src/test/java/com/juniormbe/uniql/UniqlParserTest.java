@@ -2,6 +2,8 @@ package com.juniormbe.uniql;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -53,4 +55,146 @@ class UniqlParserTest {
             System.out.println(parsed.toFormattedModel());
         });
     }
+    @Test
+    @DisplayName("Uniql parse metrics should record successes and failures")
+    void Uniql_ParseMetrics_Should_Succed() {
+        UniqlStatistics statistics = new UniqlStatistics();
+        UniqlParser.setMetrics(statistics);
+        try {
+            assertDoesNotThrow(() -> UniqlParser.parse("product{name, category{name, tag{name}}|search|1-20|-name}"));
+            UniqlParseException exception = assertThrows(UniqlParseException.class, () -> UniqlParser.parse("product{name||x-20|}"));
+
+            assertEquals(UniqlParseException.Category.BAD_PAGE, exception.getCategory());
+            assertEquals(1, statistics.getParseNanos().getCount());
+            assertEquals(6, statistics.getNodeCounts().getSum());
+            assertEquals(4, statistics.getDepths().getSum());
+            assertEquals(1, statistics.getFailureCount(UniqlParseException.Category.BAD_PAGE));
+            assertEquals(1, statistics.getFailureNanos().getCount());
+            assertEquals(20, statistics.getFailureModelLengths().getSum());
+        } finally {
+            UniqlParser.setMetrics(null);
+        }
+    }
+    @Test
+    @DisplayName("Uniql validate only should agree with parse")
+    void Uniql_Validate_Should_Succed() {
+        assertTrue(Uniql.validate("product{name, category{name, tag{name}}|search|1-20|-name}").isValid());
+        assertTrue(Uniql.validate("product").isValid());
+
+        UniqlValidation badPage = Uniql.validate("product{name||x-20|}");
+        assertEquals(UniqlParseException.Category.BAD_PAGE, badPage.getCategory());
+        assertEquals(14, badPage.getPosition());
+        assertTrue(badPage.getExpected().contains(UniqlValidation.Token.PAGE));
+
+        UniqlValidation unclosed = Uniql.validate("product{name, category{name");
+        assertEquals(UniqlParseException.Category.UNCLOSED_DEFINITION, unclosed.getCategory());
+
+        UniqlValidation trailing = Uniql.validate("product{name} name");
+        assertEquals(UniqlParseException.Category.TRAILING_CONTENT, trailing.getCategory());
+        assertEquals(UniqlParseException.Category.TRAILING_CONTENT, assertThrows(UniqlParseException.class, () -> Uniql.parse("product{name} name")).getCategory());
+
+        assertEquals(UniqlParseException.Category.BAD_PAGE, Uniql.validate("a{b{||1-2},c||5}").getCategory());
+        assertEquals(UniqlParseException.Category.BAD_PAGE, assertThrows(UniqlParseException.class, () -> Uniql.parse("a{b{||1-2},c||5}")).getCategory());
+        assertEquals(UniqlParseException.Category.BAD_SORT, Uniql.validate("a{b{|||x},c|||,y}").getCategory());
+        assertEquals(UniqlParseException.Category.BAD_SORT, assertThrows(UniqlParseException.class, () -> Uniql.parse("a{b{|||x},c|||,y}")).getCategory());
+
+        assertEquals(22, Uniql.validate("product{ name , tag ||x-20|}").getPosition());
+        assertEquals(22, assertThrows(UniqlParseException.class, () -> Uniql.parse("product{ name , tag ||x-20|}")).getPosition());
+
+        assertEquals(UniqlParseException.Category.NULL_CONTENT, Uniql.validate(null).getCategory());
+        assertEquals(UniqlParseException.Category.EMPTY_CONTENT, Uniql.validate("  ").getCategory());
+    }
+
+    @Test
+    @DisplayName("Uniql validate only should not overflow on deep models")
+    void Uniql_Validate_DeepModel_Should_Succed() {
+        StringBuilder open = new StringBuilder("r");
+        StringBuilder close = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            open.append("{a");
+            close.append('}');
+        }
+
+        UniqlValidation unclosed = assertDoesNotThrow(() -> Uniql.validate(open.toString()));
+        assertEquals(UniqlParseException.Category.UNCLOSED_DEFINITION, unclosed.getCategory());
+        assertEquals(3, unclosed.getPosition());
+
+        UniqlValidation badField = assertDoesNotThrow(() -> Uniql.validate(open + "{,}" + close + "}"));
+        assertEquals(UniqlParseException.Category.UNEXPECTED_CHARACTER, badField.getCategory());
+        assertEquals(open.length() + 1, badField.getPosition());
+
+        assertTrue(assertDoesNotThrow(() -> Uniql.validate(open.toString() + close)).isValid());
+    }
+
+    @Test
+    @DisplayName("Uniql parse failure should be stackless with lazy message")
+    void Uniql_ParseFailure_Should_Be_Stackless() {
+        UniqlParseException exception = assertThrows(UniqlParseException.class, () -> Uniql.parse("product{name|||name,}"));
+        assertEquals(UniqlParseException.Category.BAD_SORT, exception.getCategory());
+        assertEquals(0, exception.getStackTrace().length);
+        assertTrue(exception.getMessage().contains("Bad setSort definition in 'product'"));
+    }
+    @Test
+    @DisplayName("Uniql batch parsing should share names and report failures by index")
+    void Uniql_ParseAll_Should_Succed() {
+        UniqlBatch batch = Uniql.parseAll(Arrays.asList(
+          "product{name, description||1-20|-name,description}",
+          "product{name, ,description}",
+          "category{name, description||1-20|-name,description}"
+        ));
+
+        assertEquals(3, batch.size());
+        assertTrue(batch.hasErrors());
+        assertNull(batch.getResult(1));
+        assertEquals(UniqlParseException.Category.UNEXPECTED_CHARACTER, batch.getError(1).getCategory());
+
+        Uniql product = batch.getResult(0);
+        Uniql category = batch.getResult(2);
+        assertSame(product.getFields().get("name").getName(), category.getFields().get("name").getName());
+        assertSame(product.getSort().getFieldNames()[0], category.getSort().getFieldNames()[0]);
+        assertNotSame(product.getSort().getFieldNames(), category.getSort().getFieldNames());
+
+        product.getSort().getFieldNames()[0] = "price";
+        assertEquals("name", category.getSort().getFieldNames()[0]);
+    }
+
+    @Test
+    @DisplayName("Uniql batch parsing should report unexpected failures by index")
+    void Uniql_ParseAll_UnexpectedFailure_Should_Succed() {
+        UniqlNameTable names = new UniqlNameTable() {
+            @Override
+            public String intern(String name) {
+                if("broken".equals(name)) {
+                    throw new IllegalStateException("intern failure");
+                }
+                return super.intern(name);
+            }
+        };
+
+        UniqlBatch batch = assertDoesNotThrow(() -> UniqlParser.parseAll(Arrays.asList("broken{name}", "product{name}"), names));
+
+        assertNull(batch.getResult(0));
+        assertEquals(UniqlParseException.Category.OTHER, batch.getError(0).getCategory());
+        assertTrue(batch.getError(0).getCause() instanceof IllegalStateException);
+        assertEquals("product", batch.getResult(1).getName());
+    }
+
+    @Test
+    @DisplayName("Uniql parse metrics should count unexpected failures")
+    void Uniql_ParseMetrics_UnexpectedFailure_Should_Succed() {
+        UniqlStatistics statistics = new UniqlStatistics();
+        UniqlParser.setMetrics(statistics);
+        try {
+            UniqlNameTable failingNames = new UniqlNameTable() {
+                @Override
+                public String intern(String name) {
+                    throw new IllegalStateException("intern failure");
+                }
+            };
+            assertThrows(IllegalStateException.class, () -> UniqlParser.parse("product{name}", failingNames));
+            assertEquals(1, statistics.getFailureCount(UniqlParseException.Category.OTHER));
+        } finally {
+            UniqlParser.setMetrics(null);
+        }
+    }
 }
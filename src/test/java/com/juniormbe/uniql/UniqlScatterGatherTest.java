@@ -0,0 +1,123 @@
+package com.juniormbe.uniql;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+/**
+ * The UniqlScatterGatherTest class
+ *
+ * @author Junior Mbe
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("UniqlScatterGatherTest Should All Succed")
+class UniqlScatterGatherTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+    private final BiFunction<int[], String, Object> reader = (row, name) -> "id".equals(name) ? row[0] : row[1];
+
+    private UniqlShard<int[]> shard(int partition, int partitions, int rowCount) {
+        return uniql -> {
+            assertEquals(6, uniql.getPage().getSize());
+            assertThrows(UnsupportedOperationException.class, () -> uniql.getFields().remove("id"));
+            List<int[]> rows = new ArrayList<>();
+            for (int id = partition; id < rowCount; id += partitions) {
+                rows.add(new int[] {id, id % 7});
+            }
+            return rows.stream()
+              .sorted(uniql.getSort().comparator(reader))
+              .limit(uniql.getPage().getSize())
+              .collect(Collectors.toList());
+        };
+    }
+
+    @AfterAll
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Uniql sharded execution should return the requested page")
+    void Uniql_ScatterGather_Should_Succed() {
+        List<UniqlShard<int[]>> shards = Arrays.asList(shard(0, 3, 30), shard(1, 3, 30), shard(2, 3, 30));
+
+        assertDoesNotThrow(() -> {
+            UniqlGatherResult<int[]> result = UniqlScatterGather.of(shards, reader, executor)
+              .execute(Uniql.parse("product{id, price||2-3|-price,id}"));
+
+            assertFalse(result.isPartial());
+            assertEquals(Arrays.asList(6, 26, 19), result.getRows().stream().map(row -> row[0]).collect(Collectors.toList()));
+        });
+    }
+
+    @Test
+    @DisplayName("Uniql sharded execution should apply failure policy")
+    void Uniql_ScatterGather_FailurePolicy_Should_Succed() throws UniqlParseException {
+        UniqlShard<int[]> failing = uniql -> {
+            throw new IllegalStateException("shard down");
+        };
+        List<UniqlShard<int[]>> shards = Arrays.asList(shard(0, 3, 30), failing, shard(2, 3, 30));
+        Uniql uniql = Uniql.parse("product{id, price||2-3|-price,id}");
+
+        assertThrows(UniqlExecutionException.class, () -> UniqlScatterGather.of(shards, reader, executor).execute(uniql));
+
+        assertDoesNotThrow(() -> {
+            UniqlGatherResult<int[]> result = UniqlScatterGather.of(shards, reader, executor)
+              .setFailurePolicy(UniqlScatterGather.FailurePolicy.PARTIAL)
+              .execute(uniql);
+
+            assertTrue(result.isPartial());
+            assertTrue(result.getFailures().containsKey(1));
+            assertEquals(3, result.getRows().size());
+        });
+    }
+
+    @Test
+    @DisplayName("Uniql sharded execution should isolate shards from the caller Uniql")
+    void Uniql_ScatterGather_Copy_Should_Succed() throws UniqlParseException {
+        UniqlShard<int[]> mutating = uniql -> {
+            assertThrows(UnsupportedOperationException.class, () -> uniql.getFields().remove("id"));
+            uniql.getSort().getFieldNames()[0] = "price";
+            return new ArrayList<>();
+        };
+        Uniql uniql = Uniql.parse("product{id, price|||-id}");
+
+        assertDoesNotThrow(() -> UniqlScatterGather.of(Arrays.asList(mutating, mutating), reader, executor).execute(uniql));
+
+        assertTrue(uniql.hasField("id"));
+        assertEquals("id", uniql.getSort().getFieldNames()[0]);
+    }
+
+    @Test
+    @DisplayName("Uniql sharded execution should report failed shards to metrics")
+    void Uniql_ScatterGather_Metrics_Should_Succed() throws UniqlParseException {
+        UniqlShard<int[]> failing = uniql -> {
+            throw new IllegalStateException("shard down");
+        };
+        UniqlStatistics statistics = new UniqlStatistics();
+        UniqlParser.setMetrics(statistics);
+        try {
+            UniqlGatherResult<int[]> result = assertDoesNotThrow(() -> UniqlScatterGather.of(Arrays.asList(shard(0, 2, 30), failing), reader, executor)
+              .setFailurePolicy(UniqlScatterGather.FailurePolicy.PARTIAL)
+              .execute(Uniql.parse("product{id, price||2-3|-price,id}")));
+
+            assertTrue(result.isPartial());
+            assertEquals(2, statistics.getExecutionNanos().getCount());
+            assertEquals(1, statistics.getExecutionFailures());
+        } finally {
+            UniqlParser.setMetrics(null);
+        }
+    }
+}